@@ -0,0 +1,155 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.tcp.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.nio.ByteBuffer;
+
+import org.kaazing.k3po.lang.el.BytesMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.specification.nukleus.proxy.internal.ProxyFunctions;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class TcpFunctionsBM
+{
+    private static final int TYPE_ID = 0x01;
+
+    private ByteBuffer beginEx;
+    private ByteBuffer flushEx;
+    private ByteBuffer proxyBeginEx;
+
+    private BytesMatcher beginExMatcher;
+    private BytesMatcher flushExMatcher;
+    private BytesMatcher proxyBeginExMatcher;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        beginEx = ByteBuffer.wrap(beginEx());
+        flushEx = ByteBuffer.wrap(flushEx());
+        proxyBeginEx = ByteBuffer.wrap(proxyBeginEx());
+
+        beginExMatcher = TcpFunctions.matchBeginEx()
+                                     .typeId(TYPE_ID)
+                                     .sndbuf(65536)
+                                     .rcvbuf(65536)
+                                     .optimize("latency")
+                                     .build();
+
+        flushExMatcher = TcpFunctions.matchFlushEx()
+                                     .typeId(TYPE_ID)
+                                     .optimize("throughput")
+                                     .build();
+
+        proxyBeginExMatcher = ProxyFunctions.matchBeginEx()
+                                            .typeId(TYPE_ID)
+                                            .addressInet()
+                                                .protocol("stream")
+                                                .source("0.0.0.0")
+                                                .destination("127.0.0.1")
+                                                .sourcePort(0)
+                                                .destinationPort(8080)
+                                                .build()
+                                            .build();
+    }
+
+    @Benchmark
+    public byte[] beginEx()
+    {
+        return TcpFunctions.beginEx()
+                           .typeId(TYPE_ID)
+                           .sndbuf(65536)
+                           .rcvbuf(65536)
+                           .optimize("latency")
+                           .build();
+    }
+
+    @Benchmark
+    public byte[] flushEx()
+    {
+        return TcpFunctions.flushEx()
+                           .typeId(TYPE_ID)
+                           .optimize("throughput")
+                           .build();
+    }
+
+    @Benchmark
+    public byte[] proxyBeginEx() throws Exception
+    {
+        return ProxyFunctions.beginEx()
+                             .typeId(TYPE_ID)
+                             .addressInet()
+                                 .protocol("stream")
+                                 .source("0.0.0.0")
+                                 .destination("127.0.0.1")
+                                 .sourcePort(0)
+                                 .destinationPort(8080)
+                                 .build()
+                             .info()
+                                 .authority("localhost")
+                                 .build()
+                             .build();
+    }
+
+    @Benchmark
+    public Object matchBeginEx() throws Exception
+    {
+        return beginExMatcher.match(beginEx.rewind());
+    }
+
+    @Benchmark
+    public Object matchFlushEx() throws Exception
+    {
+        return flushExMatcher.match(flushEx.rewind());
+    }
+
+    @Benchmark
+    public Object matchProxyBeginEx() throws Exception
+    {
+        return proxyBeginExMatcher.match(proxyBeginEx.rewind());
+    }
+
+    public static void main(
+        String[] args) throws Exception
+    {
+        Options opt = new OptionsBuilder()
+                .include(TcpFunctionsBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,476 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.tcp.internal;
+
+import java.nio.ByteBuffer;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.kaazing.k3po.lang.el.BytesMatcher;
+import org.kaazing.k3po.lang.el.Function;
+import org.kaazing.k3po.lang.el.spi.FunctionMapperSpi;
+import org.reaktivity.specification.nukleus.tcp.internal.types.TcpError;
+import org.reaktivity.specification.nukleus.tcp.internal.types.TcpOptimize;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpBeginExFW;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpFlushExFW;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpResetExFW;
+
+public final class TcpFunctions
+{
+    @Function
+    public static byte[] payload(
+        int length)
+    {
+        final byte[] payload = new byte[length];
+        for (int index = 0; index < length; index++)
+        {
+            payload[index] = (byte) ('a' + index % 26);
+        }
+        return payload;
+    }
+
+    @Function
+    public static TcpBeginExBuilder beginEx()
+    {
+        return new TcpBeginExBuilder();
+    }
+
+    @Function
+    public static TcpBeginExMatcherBuilder matchBeginEx()
+    {
+        return new TcpBeginExMatcherBuilder();
+    }
+
+    @Function
+    public static TcpFlushExBuilder flushEx()
+    {
+        return new TcpFlushExBuilder();
+    }
+
+    @Function
+    public static TcpFlushExMatcherBuilder matchFlushEx()
+    {
+        return new TcpFlushExMatcherBuilder();
+    }
+
+    @Function
+    public static TcpResetExBuilder resetEx()
+    {
+        return new TcpResetExBuilder();
+    }
+
+    @Function
+    public static TcpResetExMatcherBuilder matchResetEx()
+    {
+        return new TcpResetExMatcherBuilder();
+    }
+
+    public static final class TcpBeginExBuilder
+    {
+        private final TcpBeginExFW.Builder beginExRW;
+
+        private TcpBeginExBuilder()
+        {
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.beginExRW = new TcpBeginExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public TcpBeginExBuilder typeId(
+            int typeId)
+        {
+            beginExRW.typeId(typeId);
+            return this;
+        }
+
+        public TcpBeginExBuilder sndbuf(
+            int sndbuf)
+        {
+            beginExRW.sndbuf(sndbuf);
+            return this;
+        }
+
+        public TcpBeginExBuilder rcvbuf(
+            int rcvbuf)
+        {
+            beginExRW.rcvbuf(rcvbuf);
+            return this;
+        }
+
+        public TcpBeginExBuilder optimize(
+            String optimize)
+        {
+            beginExRW.optimize(o -> o.set(TcpOptimize.valueOf(optimize.toUpperCase())));
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final TcpBeginExFW beginEx = beginExRW.build();
+            final byte[] array = new byte[beginEx.sizeof()];
+            beginEx.buffer().getBytes(beginEx.offset(), array);
+            return array;
+        }
+    }
+
+    public static final class TcpBeginExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+
+        private final TcpBeginExFW beginExRO = new TcpBeginExFW();
+
+        private Integer typeId;
+        private Integer sndbuf;
+        private Integer rcvbuf;
+        private TcpOptimize optimize;
+
+        public TcpBeginExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public TcpBeginExMatcherBuilder sndbuf(
+            int sndbuf)
+        {
+            this.sndbuf = sndbuf;
+            return this;
+        }
+
+        public TcpBeginExMatcherBuilder rcvbuf(
+            int rcvbuf)
+        {
+            this.rcvbuf = rcvbuf;
+            return this;
+        }
+
+        public TcpBeginExMatcherBuilder optimize(
+            String optimize)
+        {
+            this.optimize = TcpOptimize.valueOf(optimize.toUpperCase());
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private TcpBeginExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final TcpBeginExFW beginEx = beginExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.capacity());
+
+            if (beginEx != null &&
+                matchTypeId(beginEx) &&
+                matchSndbuf(beginEx) &&
+                matchRcvbuf(beginEx) &&
+                matchOptimize(beginEx))
+            {
+                byteBuf.position(byteBuf.position() + beginEx.sizeof());
+                return beginEx;
+            }
+
+            throw new Exception(beginEx.toString());
+        }
+
+        private boolean matchTypeId(
+            TcpBeginExFW beginEx)
+        {
+            return typeId == beginEx.typeId();
+        }
+
+        private boolean matchSndbuf(
+            TcpBeginExFW beginEx)
+        {
+            return sndbuf == null || sndbuf == beginEx.sndbuf();
+        }
+
+        private boolean matchRcvbuf(
+            TcpBeginExFW beginEx)
+        {
+            return rcvbuf == null || rcvbuf == beginEx.rcvbuf();
+        }
+
+        private boolean matchOptimize(
+            TcpBeginExFW beginEx)
+        {
+            return optimize == null || optimize == beginEx.optimize().get();
+        }
+    }
+
+    public static final class TcpFlushExBuilder
+    {
+        private final TcpFlushExFW.Builder flushExRW;
+
+        private TcpFlushExBuilder()
+        {
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.flushExRW = new TcpFlushExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public TcpFlushExBuilder typeId(
+            int typeId)
+        {
+            flushExRW.typeId(typeId);
+            return this;
+        }
+
+        public TcpFlushExBuilder sndbuf(
+            int sndbuf)
+        {
+            flushExRW.sndbuf(sndbuf);
+            return this;
+        }
+
+        public TcpFlushExBuilder rcvbuf(
+            int rcvbuf)
+        {
+            flushExRW.rcvbuf(rcvbuf);
+            return this;
+        }
+
+        public TcpFlushExBuilder optimize(
+            String optimize)
+        {
+            flushExRW.optimize(o -> o.set(TcpOptimize.valueOf(optimize.toUpperCase())));
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final TcpFlushExFW flushEx = flushExRW.build();
+            final byte[] array = new byte[flushEx.sizeof()];
+            flushEx.buffer().getBytes(flushEx.offset(), array);
+            return array;
+        }
+    }
+
+    public static final class TcpFlushExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+
+        private final TcpFlushExFW flushExRO = new TcpFlushExFW();
+
+        private Integer typeId;
+        private Integer sndbuf;
+        private Integer rcvbuf;
+        private TcpOptimize optimize;
+
+        public TcpFlushExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public TcpFlushExMatcherBuilder sndbuf(
+            int sndbuf)
+        {
+            this.sndbuf = sndbuf;
+            return this;
+        }
+
+        public TcpFlushExMatcherBuilder rcvbuf(
+            int rcvbuf)
+        {
+            this.rcvbuf = rcvbuf;
+            return this;
+        }
+
+        public TcpFlushExMatcherBuilder optimize(
+            String optimize)
+        {
+            this.optimize = TcpOptimize.valueOf(optimize.toUpperCase());
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private TcpFlushExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final TcpFlushExFW flushEx = flushExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.capacity());
+
+            if (flushEx != null &&
+                matchTypeId(flushEx) &&
+                matchSndbuf(flushEx) &&
+                matchRcvbuf(flushEx) &&
+                matchOptimize(flushEx))
+            {
+                byteBuf.position(byteBuf.position() + flushEx.sizeof());
+                return flushEx;
+            }
+
+            throw new Exception(flushEx.toString());
+        }
+
+        private boolean matchTypeId(
+            TcpFlushExFW flushEx)
+        {
+            return typeId == flushEx.typeId();
+        }
+
+        private boolean matchSndbuf(
+            TcpFlushExFW flushEx)
+        {
+            return sndbuf == null || sndbuf == flushEx.sndbuf();
+        }
+
+        private boolean matchRcvbuf(
+            TcpFlushExFW flushEx)
+        {
+            return rcvbuf == null || rcvbuf == flushEx.rcvbuf();
+        }
+
+        private boolean matchOptimize(
+            TcpFlushExFW flushEx)
+        {
+            return optimize == null || optimize == flushEx.optimize().get();
+        }
+    }
+
+    public static final class TcpResetExBuilder
+    {
+        private final TcpResetExFW.Builder resetExRW;
+
+        private TcpResetExBuilder()
+        {
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.resetExRW = new TcpResetExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public TcpResetExBuilder typeId(
+            int typeId)
+        {
+            resetExRW.typeId(typeId);
+            return this;
+        }
+
+        public TcpResetExBuilder error(
+            String error)
+        {
+            resetExRW.error(e -> e.set(TcpError.valueOf(error.toUpperCase())));
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final TcpResetExFW resetEx = resetExRW.build();
+            final byte[] array = new byte[resetEx.sizeof()];
+            resetEx.buffer().getBytes(resetEx.offset(), array);
+            return array;
+        }
+    }
+
+    public static final class TcpResetExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+
+        private final TcpResetExFW resetExRO = new TcpResetExFW();
+
+        private Integer typeId;
+        private TcpError error;
+
+        public TcpResetExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public TcpResetExMatcherBuilder error(
+            String error)
+        {
+            this.error = TcpError.valueOf(error.toUpperCase());
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private TcpResetExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final TcpResetExFW resetEx = resetExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.capacity());
+
+            if (resetEx != null &&
+                matchTypeId(resetEx) &&
+                matchError(resetEx))
+            {
+                byteBuf.position(byteBuf.position() + resetEx.sizeof());
+                return resetEx;
+            }
+
+            throw new Exception(resetEx.toString());
+        }
+
+        private boolean matchTypeId(
+            TcpResetExFW resetEx)
+        {
+            return typeId == resetEx.typeId();
+        }
+
+        private boolean matchError(
+            TcpResetExFW resetEx)
+        {
+            return error == null || error == resetEx.error().get();
+        }
+    }
+
+    public static class Mapper extends FunctionMapperSpi.Reflective
+    {
+        public Mapper()
+        {
+            super(TcpFunctions.class);
+        }
+
+        @Override
+        public String getPrefixName()
+        {
+            return "tcp";
+        }
+    }
+
+    private TcpFunctions()
+    {
+        // utility
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.tcp.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+
+@RunWith(Parameterized.class)
+public class SchemaTest
+{
+    private static final String SCHEMA_PATCH = "org/reaktivity/specification/nukleus/tcp/schema/tcp.schema.patch.json";
+    private static final String CONFIG_ROOT = "org/reaktivity/specification/nukleus/tcp/config";
+
+    private static final JsonValidationService SERVICE = JsonValidationService.newInstance();
+
+    private static JsonSchema schema;
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> configs() throws Exception
+    {
+        final Path root = Paths.get(SchemaTest.class.getClassLoader().getResource(CONFIG_ROOT).toURI());
+
+        try (Stream<Path> files = Files.list(root))
+        {
+            return files
+                .map(Path::getFileName)
+                .map(Path::toString)
+                .filter(name -> name.endsWith(".json"))
+                .sorted()
+                .map(name -> new Object[] { name })
+                .collect(toList());
+        }
+    }
+
+    @BeforeClass
+    public static void readSchema() throws Exception
+    {
+        final JsonObject binding;
+
+        try (InputStream input = resource(SCHEMA_PATCH);
+             JsonReader reader = Json.createReader(input))
+        {
+            final JsonArray patch = reader.readArray();
+
+            binding = patch.stream()
+                .map(JsonValue::asJsonObject)
+                .filter(op -> "/$defs/binding/allOf/-".equals(op.getString("path")))
+                .map(op -> op.getJsonObject("value"))
+                .findFirst()
+                .orElseThrow();
+        }
+
+        final JsonObject bindings = Json.createObjectBuilder()
+            .add("type", "object")
+            .add("properties", Json.createObjectBuilder()
+                .add("bindings", Json.createObjectBuilder()
+                    .add("type", "array")
+                    .add("items", binding)))
+            .add("required", Json.createArrayBuilder()
+                .add("bindings"))
+            .build();
+
+        schema = SERVICE.readSchema(new ByteArrayInputStream(bindings.toString().getBytes(UTF_8)));
+    }
+
+    @Parameter
+    public String config;
+
+    @Test
+    public void shouldValidateConfig() throws Exception
+    {
+        final List<Problem> problems = new ArrayList<>();
+
+        try (InputStream input = resource(CONFIG_ROOT + "/" + config);
+             JsonReader reader = SERVICE.createReader(input, schema, problems::addAll))
+        {
+            reader.readValue();
+        }
+
+        assertTrue(problems.toString(), problems.isEmpty());
+    }
+
+    private static InputStream resource(
+        String name)
+    {
+        return SchemaTest.class.getClassLoader().getResourceAsStream(name);
+    }
+}
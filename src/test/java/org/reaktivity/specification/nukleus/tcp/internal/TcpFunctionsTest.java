@@ -0,0 +1,516 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.tcp.internal;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import javax.el.ELContext;
+import javax.el.FunctionMapper;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.kaazing.k3po.lang.el.BytesMatcher;
+import org.kaazing.k3po.lang.internal.el.ExpressionContext;
+import org.reaktivity.specification.nukleus.tcp.internal.types.TcpError;
+import org.reaktivity.specification.nukleus.tcp.internal.types.TcpOptimize;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpBeginExFW;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpFlushExFW;
+import org.reaktivity.specification.nukleus.tcp.internal.types.stream.TcpResetExFW;
+
+public class TcpFunctionsTest
+{
+    @Test
+    public void shouldResolveFunction() throws Exception
+    {
+        final ELContext ctx = new ExpressionContext();
+        final FunctionMapper mapper = ctx.getFunctionMapper();
+        final Method function = mapper.resolveFunction("tcp", "beginEx");
+
+        assertNotNull(function);
+        assertSame(TcpFunctions.class, function.getDeclaringClass());
+    }
+
+    @Test
+    public void shouldGeneratePayload()
+    {
+        byte[] payload = TcpFunctions.payload(28);
+
+        assertArrayEquals("abcdefghijklmnopqrstuvwxyzab".getBytes(US_ASCII), payload);
+    }
+
+    @Test
+    public void shouldGenerateBeginExtension()
+    {
+        byte[] build = TcpFunctions.beginEx()
+                                   .typeId(0x01)
+                                   .sndbuf(65536)
+                                   .rcvbuf(131072)
+                                   .optimize("latency")
+                                   .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        TcpBeginExFW beginEx = new TcpBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(65536, beginEx.sndbuf());
+        assertEquals(131072, beginEx.rcvbuf());
+        assertEquals(TcpOptimize.LATENCY, beginEx.optimize().get());
+    }
+
+    @Test
+    public void shouldGenerateBeginExtensionWithDefaults()
+    {
+        byte[] build = TcpFunctions.beginEx()
+                                   .typeId(0x01)
+                                   .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        TcpBeginExFW beginEx = new TcpBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(-1, beginEx.sndbuf());
+        assertEquals(-1, beginEx.rcvbuf());
+        assertEquals(TcpOptimize.DEFAULT, beginEx.optimize().get());
+    }
+
+    @Test
+    public void shouldMatchBeginExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .sndbuf(65536)
+                                           .rcvbuf(131072)
+                                           .optimize("throughput")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .sndbuf(65536)
+                                  .rcvbuf(131072)
+                                  .optimize(o -> o.set(TcpOptimize.THROUGHPUT))
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchBeginExtensionTypeIdOnly() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .sndbuf(65536)
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchBeginExtensionWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .build();
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchEmptyBeginExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(0);
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenBeginExtensionTypeIdDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x02)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenBeginExtensionSndbufDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .sndbuf(65536)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .sndbuf(8192)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenBeginExtensionRcvbufDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .rcvbuf(65536)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .rcvbuf(8192)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenBeginExtensionOptimizeDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchBeginEx()
+                                           .typeId(0x01)
+                                           .optimize("latency")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .optimize(o -> o.set(TcpOptimize.THROUGHPUT))
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test
+    public void shouldGenerateFlushExtension()
+    {
+        byte[] build = TcpFunctions.flushEx()
+                                   .typeId(0x01)
+                                   .sndbuf(65536)
+                                   .rcvbuf(131072)
+                                   .optimize("latency")
+                                   .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        TcpFlushExFW flushEx = new TcpFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0x01, flushEx.typeId());
+        assertEquals(65536, flushEx.sndbuf());
+        assertEquals(131072, flushEx.rcvbuf());
+        assertEquals(TcpOptimize.LATENCY, flushEx.optimize().get());
+    }
+
+    @Test
+    public void shouldMatchFlushExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .sndbuf(65536)
+                                           .rcvbuf(131072)
+                                           .optimize("throughput")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .sndbuf(65536)
+                                  .rcvbuf(131072)
+                                  .optimize(o -> o.set(TcpOptimize.THROUGHPUT))
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchFlushExtensionTypeIdOnly() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .rcvbuf(131072)
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchFlushExtensionWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .build();
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchEmptyFlushExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(0);
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenFlushExtensionTypeIdDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x02)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenFlushExtensionSndbufDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .sndbuf(65536)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .sndbuf(8192)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenFlushExtensionRcvbufDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .rcvbuf(65536)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .rcvbuf(8192)
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenFlushExtensionOptimizeDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchFlushEx()
+                                           .typeId(0x01)
+                                           .optimize("latency")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpFlushExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .optimize(o -> o.set(TcpOptimize.THROUGHPUT))
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test
+    public void shouldGenerateResetExtension()
+    {
+        byte[] build = TcpFunctions.resetEx()
+                                   .typeId(0x01)
+                                   .error("connection_refused")
+                                   .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        TcpResetExFW resetEx = new TcpResetExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0x01, resetEx.typeId());
+        assertEquals(TcpError.CONNECTION_REFUSED, resetEx.error().get());
+    }
+
+    @Test
+    public void shouldGenerateResetExtensionWithTimedOut()
+    {
+        byte[] build = TcpFunctions.resetEx()
+                                   .typeId(0x01)
+                                   .error("connection_timed_out")
+                                   .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        TcpResetExFW resetEx = new TcpResetExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0x01, resetEx.typeId());
+        assertEquals(TcpError.CONNECTION_TIMED_OUT, resetEx.error().get());
+    }
+
+    @Test
+    public void shouldMatchResetExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .typeId(0x01)
+                                           .error("connection_timed_out")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpResetExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .error(e -> e.set(TcpError.CONNECTION_TIMED_OUT))
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldMatchResetExtensionTypeIdOnly() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpResetExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .error(e -> e.set(TcpError.UNKNOWN))
+                                  .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchResetExtensionWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpResetExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .error(e -> e.set(TcpError.UNKNOWN))
+                                  .build();
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test
+    public void shouldNotMatchEmptyResetExtension() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(0);
+
+        assertNull(matcher.match(byteBuf));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenResetExtensionTypeIdDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .typeId(0x01)
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpResetExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x02)
+                                  .error(e -> e.set(TcpError.UNKNOWN))
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailWhenResetExtensionErrorDiffers() throws Exception
+    {
+        BytesMatcher matcher = TcpFunctions.matchResetEx()
+                                           .typeId(0x01)
+                                           .error("connection_refused")
+                                           .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new TcpResetExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                                  .typeId(0x01)
+                                  .error(e -> e.set(TcpError.CONNECTION_TIMED_OUT))
+                                  .build();
+
+        matcher.match(byteBuf);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.tcp.streams;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+import org.kaazing.k3po.junit.annotation.ScriptProperty;
+import org.kaazing.k3po.junit.annotation.Specification;
+import org.kaazing.k3po.junit.rules.K3poRule;
+
+/**
+ * Single connection bench scripts, sized by the {@code length} and {@code count} properties.
+ * Payloads arrive as {@code count} DATA frames of {@code length} bytes, one window each.
+ */
+public class ApplicationBenchIT
+{
+
+    private final K3poRule k3po = new K3poRule()
+            .addScriptRoot("app", "org/reaktivity/specification/nukleus/tcp/streams/application/bench");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(5, SECONDS));
+
+    @Rule
+    public final TestRule chain = outerRule(k3po).around(timeout);
+
+    @Test
+    @Specification({
+        "${app}/client.and.server.sent.data/client",
+        "${app}/client.and.server.sent.data/server" })
+    public void shouldEchoData() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.and.server.sent.data/client",
+        "${app}/client.and.server.sent.data/server" })
+    @ScriptProperty({ "length 65536", "count 64" })
+    public void shouldEchoDataInLargeFrames() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data/client",
+        "${app}/client.sent.data/server" })
+    public void shouldReceiveClientSentData() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/connection.established/client",
+        "${app}/connection.established/server" })
+    public void shouldEstablishConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.sent.data/client",
+        "${app}/server.sent.data/server" })
+    public void shouldReceiveServerSentData() throws Exception
+    {
+        k3po.finish();
+    }
+}
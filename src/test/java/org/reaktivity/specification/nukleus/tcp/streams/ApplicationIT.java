@@ -58,6 +58,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.and.server.sent.data.then.idle.timed.out/client",
+        "${app}/client.and.server.sent.data.then.idle.timed.out/server" })
+    public void shouldTimeOutIdleConnectionAfterData() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.close/client",
@@ -67,6 +76,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.idle.timed.out/client",
+        "${app}/client.idle.timed.out/server" })
+    public void shouldTimeOutIdleClientConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.received.abort.sent.end/client",
@@ -103,6 +121,33 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.sent.data.coalesced/client",
+        "${app}/client.sent.data.coalesced/server" })
+    public void shouldCoalesceClientSentDataUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data.corked/client",
+        "${app}/client.sent.data.corked/server" })
+    public void shouldHoldClientSentDataCorkedUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data.flushed/client",
+        "${app}/client.sent.data.flushed/server" })
+    public void shouldWriteClientSentDataOnFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.sent.data/client",
@@ -112,6 +157,33 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.sent.data.exceeding.window/client",
+        "${app}/client.sent.data.exceeding.window/server" })
+    public void shouldReceiveClientSentDataExceedingWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data.fast.open/client",
+        "${app}/client.sent.data.fast.open/server" })
+    public void shouldReceiveClientSentDataWithFastOpen() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data.large/client",
+        "${app}/client.sent.data.large/server" })
+    public void shouldReceiveClientSentDataLarge() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.sent.data.multiple.frames/client",
@@ -130,6 +202,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.sent.data.multiple.streams.shared.budget/client",
+        "${app}/client.sent.data.multiple.streams.shared.budget/server" })
+    public void shouldReceiveClientSentDataOnMultipleStreamsWithSharedBudget() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.sent.data.multiple.streams.second.was.reset/client",
@@ -139,6 +220,24 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.sent.data.optimize.latency.then.throughput/client",
+        "${app}/client.sent.data.optimize.latency.then.throughput/server" })
+    public void shouldSwitchClientOptimizeFromLatencyToThroughput() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.sent.data.unix/client",
+        "${app}/client.sent.data.unix/server" })
+    public void shouldReceiveClientSentDataOverUnixSocket() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.sent.data.received.abort.and.reset/client",
@@ -202,6 +301,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/concurrent.connections.rate.limited/client",
+        "${app}/concurrent.connections.rate.limited/server" })
+    public void shouldEstablishConcurrentConnectionsWithRateLimit() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/max.connections/client",
@@ -211,6 +319,33 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/max.connections.accept.resumed/client",
+        "${app}/max.connections.accept.resumed/server" })
+    public void maxConnectionsAcceptResumed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/pooled.connection.prewarmed.reused/client",
+        "${app}/pooled.connection.prewarmed.reused/server" })
+    public void shouldReusePrewarmedPooledConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/pooled.connection.reconnected/client",
+        "${app}/pooled.connection.reconnected/server" })
+    public void shouldReconnectPooledConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/connection.established/client",
@@ -220,6 +355,24 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/connection.established.proxy.v1/client",
+        "${app}/connection.established.proxy.v1/server" })
+    public void shouldEstablishConnectionWithProxyV1Header() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/connection.established.proxy.v2/client",
+        "${app}/connection.established.proxy.v2/server" })
+    public void shouldEstablishConnectionWithProxyV2Header() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/connection.established.ipv6/client",
@@ -229,6 +382,24 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/connection.established.unix/client",
+        "${app}/connection.established.unix/server" })
+    public void shouldEstablishConnectionOverUnixSocket() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/connection.established.with.buffer.sizes/client",
+        "${app}/connection.established.with.buffer.sizes/server" })
+    public void shouldEstablishConnectionWithBufferSizes() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/connection.failed/client",
@@ -238,6 +409,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/connection.timed.out/client",
+        "${app}/connection.timed.out/server" })
+    public void shouldTimeOutConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.close/client",
@@ -247,6 +427,24 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/server.close.unix/client",
+        "${app}/server.close.unix/server" })
+    public void shouldInitiateServerCloseOverUnixSocket() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.idle.timed.out/client",
+        "${app}/server.idle.timed.out/server" })
+    public void shouldTimeOutIdleServerConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.received.abort.sent.end/client",
@@ -283,6 +481,33 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/server.sent.data.coalesced/client",
+        "${app}/server.sent.data.coalesced/server" })
+    public void shouldCoalesceServerSentDataUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.sent.data.corked/client",
+        "${app}/server.sent.data.corked/server" })
+    public void shouldHoldServerSentDataCorkedUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.sent.data.flushed/client",
+        "${app}/server.sent.data.flushed/server" })
+    public void shouldWriteServerSentDataOnFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.sent.data/client",
@@ -292,6 +517,24 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/server.sent.data.exceeding.window/client",
+        "${app}/server.sent.data.exceeding.window/server" })
+    public void shouldReceiveServerSentDataExceedingWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.sent.data.large/client",
+        "${app}/server.sent.data.large/server" })
+    public void shouldReceiveServerSentDataLarge() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.sent.data.multiple.frames/client",
@@ -310,6 +553,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/server.sent.data.multiple.streams.shared.budget/client",
+        "${app}/server.sent.data.multiple.streams.shared.budget/server" })
+    public void shouldReceiveServerSentDataOnMultipleStreamsWithSharedBudget() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.sent.data.multiple.streams.second.was.reset/client",
@@ -319,6 +571,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/server.sent.data.optimize.throughput.then.latency/client",
+        "${app}/server.sent.data.optimize.throughput.then.latency/server" })
+    public void shouldSwitchServerOptimizeFromThroughputToLatency() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/server.sent.data.received.reset.and.abort/client",
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.kaazing.k3po.junit.annotation.ScriptProperty;
 import org.kaazing.k3po.junit.annotation.Specification;
 import org.kaazing.k3po.junit.rules.K3poRule;
 
@@ -37,6 +38,74 @@ public class ApplicationRoutingIT
     @Rule
     public final TestRule chain = outerRule(k3po).around(timeout);
 
+    @Test
+    @Specification({
+        "${app}/client.connect.happy.eyeballs.ipv4.fallback/client",
+        "${app}/client.connect.happy.eyeballs.ipv4.fallback/server" })
+    public void shouldConnectClientHappyEyeballsWithIpv4Fallback() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.happy.eyeballs.ipv6.preferred/client",
+        "${app}/client.connect.happy.eyeballs.ipv6.preferred/server" })
+    public void shouldConnectClientHappyEyeballsWithIpv6Preferred() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.with.authority.match/client",
+        "${app}/client.connect.with.authority.match/server" })
+    @ScriptProperty("authority \"svc.cidr.test\"")
+    public void shouldConnectClientWithAuthorityAndSubnetMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.with.authority.match/client",
+        "${app}/client.connect.with.authority.match/server" })
+    @ScriptProperty("authority \"LocalHost\"")
+    public void shouldConnectClientWithAuthorityCaseInsensitiveMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.with.authority.match/client",
+        "${app}/client.connect.with.authority.match/server" })
+    @ScriptProperty("authority \"api.v1.example.net\"")
+    public void shouldConnectClientWithAuthorityInfixMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.with.authority.match/client",
+        "${app}/client.connect.with.authority.match/server" })
+    @ScriptProperty("authority \"localhost\"")
+    public void shouldConnectClientWithAuthorityPrefixMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.connect.with.authority.match/client",
+        "${app}/client.connect.with.authority.match/server" })
+    @ScriptProperty("authority \"api.example.com\"")
+    public void shouldConnectClientWithAuthoritySuffixMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.connect.with.host.extension/client",
@@ -64,6 +133,33 @@ public class ApplicationRoutingIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/client.connect.with.source.pool/client",
+        "${app}/client.connect.with.source.pool/server" })
+    public void shouldConnectClientWithSourcePool() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.reset.with.authority.match.and.no.subnet.match/client",
+        "${app}/client.reset.with.authority.match.and.no.subnet.match/server" })
+    public void shouldResetClientWithAuthorityMatchAndNoSubnetMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.reset.with.no.authority.match/client",
+        "${app}/client.reset.with.no.authority.match/server" })
+    public void shouldResetClientWithNoAuthorityMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.reset.with.no.subnet.match/client",
@@ -72,4 +168,40 @@ public class ApplicationRoutingIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${app}/client.reset.with.no.subnet.match.ipv6/client",
+        "${app}/client.reset.with.no.subnet.match.ipv6/server" })
+    public void shouldResetClientWithNoSubnetMatchIpv6() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/client.reset.with.unresolved.host/client",
+        "${app}/client.reset.with.unresolved.host/server" })
+    public void shouldResetClientWithUnresolvedHost() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.accept.with.port.match/client",
+        "${app}/server.accept.with.port.match/server" })
+    public void shouldAcceptServerWithPortMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/server.accept.with.subnet.match/client",
+        "${app}/server.accept.with.subnet.match/server" })
+    public void shouldAcceptServerWithSubnetMatch() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.kaazing.k3po.junit.annotation.ScriptProperty;
 import org.kaazing.k3po.junit.annotation.Specification;
 import org.kaazing.k3po.junit.rules.K3poRule;
 
@@ -40,6 +41,15 @@ public class NetworkIT
     @Rule
     public final TestRule chain = outerRule(k3po).around(timeout);
 
+    @Test
+    @Specification({
+        "${net}/client.and.server.sent.data/client",
+        "${net}/client.and.server.sent.data/server" })
+    public void shouldReceiveClientAndServerSentData() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/client.and.server.sent.data.multiple.frames/client",
@@ -58,6 +68,15 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/client.and.server.sent.data.then.idle.timed.out/client",
+        "${net}/client.and.server.sent.data.then.idle.timed.out/server" })
+    public void shouldTimeOutIdleConnectionAfterData() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/client.close/client",
@@ -67,6 +86,69 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/client.idle.timed.out/client",
+        "${net}/client.idle.timed.out/server" })
+    public void shouldTimeOutIdleClientConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.abort/client",
+        "${net}/client.sent.abort/server" })
+    public void shouldProcessAbortFromClient() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.abort.orderly/client",
+        "${net}/client.sent.abort.orderly/server" })
+    public void shouldProcessOrderlyAbortFromClient() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.reset/client",
+        "${net}/client.sent.reset/server" })
+    public void clientShouldResetConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.reset.orderly/client",
+        "${net}/client.sent.reset.orderly/server" })
+    public void clientShouldResetConnectionOrderly() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.data.corked/client",
+        "${net}/client.sent.data.corked/server" })
+    public void shouldHoldClientSentDataCorkedUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.data.flushed/client",
+        "${net}/client.sent.data.flushed/server" })
+    public void shouldWriteClientSentDataOnFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/client.sent.data/client",
@@ -76,6 +158,25 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/client.sent.data.large/client",
+        "${net}/client.sent.data.large/server" })
+    @ScriptProperty("length 65536")
+    public void shouldReceiveClientSentDataExceedingWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.data.large/client",
+        "${net}/client.sent.data.large/server" })
+    public void shouldReceiveClientSentDataLarge() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/client.sent.data.multiple.frames/client",
@@ -94,6 +195,24 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/client.sent.data.multiple.streams.shared.budget/client",
+        "${net}/client.sent.data.multiple.streams.shared.budget/server" })
+    public void shouldReceiveClientSentDataOnMultipleStreamsWithSharedBudget() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/client.sent.data.optimize.latency.then.throughput/client",
+        "${net}/client.sent.data.optimize.latency.then.throughput/server" })
+    public void shouldReceiveClientSentDataOptimizedForLatencyThenThroughput() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/concurrent.connections/client",
@@ -103,6 +222,24 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/concurrent.connections.rate.limited/client",
+        "${net}/concurrent.connections.rate.limited/server" })
+    public void shouldEstablishConcurrentConnectionsWithRateLimit() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connection.aborted.proxy.malformed/client",
+        "${net}/connection.aborted.proxy.malformed/server" })
+    public void shouldAbortConnectionWithMalformedProxyHeader() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/connection.established/client",
@@ -112,6 +249,60 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/connection.established.proxy.v1/client",
+        "${net}/connection.established.proxy.v1/server" })
+    public void shouldEstablishConnectionWithProxyV1Header() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connection.established.proxy.v2/client",
+        "${net}/connection.established.proxy.v2/server" })
+    public void shouldEstablishConnectionWithProxyV2Header() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connection.established.with.buffer.sizes/client",
+        "${net}/connection.established.with.buffer.sizes/server" })
+    public void shouldEstablishConnectionWithBufferSizes() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/pooled.connection.closed.by.peer/client",
+        "${net}/pooled.connection.closed.by.peer/server" })
+    public void shouldReconnectPooledConnectionClosedByPeer() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/pooled.connection.evicted/client",
+        "${net}/pooled.connection.evicted/server" })
+    public void shouldReconnectPooledConnectionEvicted() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/pooled.connection.prewarmed.reused/client",
+        "${net}/pooled.connection.prewarmed.reused/server" })
+    public void shouldReusePrewarmedPooledConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/server.close/client",
@@ -121,6 +312,69 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/server.idle.timed.out/client",
+        "${net}/server.idle.timed.out/server" })
+    public void shouldTimeOutIdleServerConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.abort/client",
+        "${net}/server.sent.abort/server" })
+    public void serverShouldAbortConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.abort.orderly/client",
+        "${net}/server.sent.abort.orderly/server" })
+    public void serverShouldAbortConnectionOrderly() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.reset/client",
+        "${net}/server.sent.reset/server" })
+    public void serverShouldResetConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.reset.orderly/client",
+        "${net}/server.sent.reset.orderly/server" })
+    public void serverShouldResetConnectionOrderly() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.data.corked/client",
+        "${net}/server.sent.data.corked/server" })
+    public void shouldHoldServerSentDataCorkedUntilFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.data.flushed/client",
+        "${net}/server.sent.data.flushed/server" })
+    public void shouldWriteServerSentDataOnFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/server.sent.data/client",
@@ -130,6 +384,25 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/server.sent.data.large/client",
+        "${net}/server.sent.data.large/server" })
+    @ScriptProperty("length 65536")
+    public void shouldReceiveServerSentDataExceedingWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.data.large/client",
+        "${net}/server.sent.data.large/server" })
+    public void shouldReceiveServerSentDataLarge() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/server.sent.data.multiple.frames/client",
@@ -148,4 +421,39 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/server.sent.data.multiple.streams.shared.budget/client",
+        "${net}/server.sent.data.multiple.streams.shared.budget/server" })
+    public void shouldReceiveServerSentDataOnMultipleStreamsWithSharedBudget() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.sent.data.optimize.throughput.then.latency/client",
+        "${net}/server.sent.data.optimize.throughput.then.latency/server" })
+    public void shouldReceiveServerSentDataOptimizedForThroughputThenLatency() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/max.connections/client",
+        "${net}/max.connections/server" })
+    public void maxConnections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/max.connections.accept.resumed/client",
+        "${net}/max.connections.accept.resumed/server" })
+    public void maxConnectionsAcceptResumed() throws Exception
+    {
+        k3po.finish();
+    }
 }
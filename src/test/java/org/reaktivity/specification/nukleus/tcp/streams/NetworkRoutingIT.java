@@ -63,4 +63,40 @@ public class NetworkRoutingIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/client.connect.with.source.pool/client",
+        "${net}/client.connect.with.source.pool/server" })
+    public void shouldConnectClientWithSourcePool() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.accept.with.port.match/client",
+        "${net}/server.accept.with.port.match/server" })
+    public void shouldAcceptServerWithPortMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.accept.with.subnet.match/client",
+        "${net}/server.accept.with.subnet.match/server" })
+    public void shouldAcceptServerWithSubnetMatch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/server.reset.with.no.route.match/client",
+        "${net}/server.reset.with.no.route.match/server" })
+    public void shouldResetServerWithNoRouteMatch() throws Exception
+    {
+        k3po.finish();
+    }
 }